@@ -0,0 +1,99 @@
+package ru.practicum.shareit.booking;
+
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-item occupancy built from bookings: disjoint half-open [start, end) periods keyed by start.
+ * Overlapping and adjacent bookings are merged, so checking whether an item is free for a window
+ * is a single floor lookup no matter how dense its booking history is.
+ * The booking service is expected to occupy a period on approval and release it on cancellation.
+ */
+@Component
+public class BookingOccupancy {
+
+    private final Map<Long, NavigableMap<LocalDateTime, LocalDateTime>> occupancy = new ConcurrentHashMap<>();
+
+    public void occupy(Long itemId, LocalDateTime start, LocalDateTime end) {
+        validatePeriod(start, end);
+        NavigableMap<LocalDateTime, LocalDateTime> periods = occupancy.computeIfAbsent(itemId, id -> new TreeMap<>());
+        synchronized (periods) {
+            LocalDateTime mergedStart = start;
+            LocalDateTime mergedEnd = end;
+
+            Map.Entry<LocalDateTime, LocalDateTime> previous = periods.floorEntry(start);
+            if (previous != null && !previous.getValue().isBefore(start)) {
+                mergedStart = previous.getKey();
+                mergedEnd = latest(mergedEnd, previous.getValue());
+            }
+
+            NavigableMap<LocalDateTime, LocalDateTime> overlapped = periods.subMap(mergedStart, true, mergedEnd, true);
+            for (LocalDateTime overlappedEnd : overlapped.values()) {
+                mergedEnd = latest(mergedEnd, overlappedEnd);
+            }
+            overlapped.clear();
+            periods.put(mergedStart, mergedEnd);
+        }
+    }
+
+    public void release(Long itemId, LocalDateTime start, LocalDateTime end) {
+        validatePeriod(start, end);
+        NavigableMap<LocalDateTime, LocalDateTime> periods = occupancy.get(itemId);
+        if (periods == null) {
+            return;
+        }
+
+        synchronized (periods) {
+            Map.Entry<LocalDateTime, LocalDateTime> previous = periods.lowerEntry(start);
+            if (previous != null && previous.getValue().isAfter(start)) {
+                periods.put(previous.getKey(), start);
+                if (previous.getValue().isAfter(end)) {
+                    periods.put(end, previous.getValue());
+                    return;
+                }
+            }
+
+            NavigableMap<LocalDateTime, LocalDateTime> overlapped = periods.subMap(start, true, end, false);
+            Map.Entry<LocalDateTime, LocalDateTime> last = overlapped.lastEntry();
+            overlapped.clear();
+            if (last != null && last.getValue().isAfter(end)) {
+                periods.put(end, last.getValue());
+            }
+        }
+    }
+
+    public boolean isFree(Long itemId, LocalDateTime start, LocalDateTime end) {
+        NavigableMap<LocalDateTime, LocalDateTime> periods = occupancy.get(itemId);
+        if (periods == null) {
+            return true;
+        }
+
+        synchronized (periods) {
+            Map.Entry<LocalDateTime, LocalDateTime> latestBefore = periods.lowerEntry(end);
+            return latestBefore == null || !latestBefore.getValue().isAfter(start);
+        }
+    }
+
+    public void removeItem(Long itemId) {
+        occupancy.remove(itemId);
+    }
+
+    public void clear() {
+        occupancy.clear();
+    }
+
+    private static void validatePeriod(LocalDateTime start, LocalDateTime end) {
+        if (start == null || end == null || !start.isBefore(end)) {
+            throw new IllegalArgumentException("Дата начала должна быть раньше даты окончания");
+        }
+    }
+
+    private static LocalDateTime latest(LocalDateTime first, LocalDateTime second) {
+        return first.isAfter(second) ? first : second;
+    }
+}
@@ -0,0 +1,24 @@
+package ru.practicum.shareit.config;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import ru.practicum.shareit.ShareItApp;
+
+/**
+ * The fast-start profile turns on lazy initialization, which only pays off for infrastructure
+ * nobody touches on the request path. The application's own beans stay eager, so the first
+ * request after a cold start does not have to build controllers, services and stores.
+ */
+@Configuration
+@Profile("fast-start")
+public class FastStartConfig {
+
+    @Bean
+    static LazyInitializationExcludeFilter applicationBeansExcludeFilter() {
+        String applicationPackage = ShareItApp.class.getPackageName();
+        return (beanName, beanDefinition, beanType) ->
+                beanType != null && beanType.getPackageName().startsWith(applicationPackage);
+    }
+}
@@ -2,6 +2,6 @@ package ru.practicum.shareit.exception;
 
 public class ConflictException extends RuntimeException {
     public ConflictException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
\ No newline at end of file
@@ -2,6 +2,6 @@ package ru.practicum.shareit.exception;
 
 public class ForbiddenException extends RuntimeException {
     public ForbiddenException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package ru.practicum.shareit.item;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
@@ -9,6 +10,7 @@ import ru.practicum.shareit.item.service.ItemService;
 import ru.practicum.shareit.validation.OnCreate;
 import ru.practicum.shareit.validation.OnUpdate;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
 
 @RestController
@@ -62,7 +64,18 @@ public class ItemController {
     }
 
     @GetMapping("/search")
-    public Collection<ItemDto> searchItems(@RequestParam("text") String text) {
-        return itemService.searchItems(text);
+    public Collection<ItemDto> searchItems(@RequestParam("text") String text,
+                                           @RequestParam(required = false)
+                                           @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+                                           @RequestParam(required = false)
+                                           @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
+                                           @RequestParam(required = false) Integer size) {
+        return itemService.searchItems(text, start, end, size);
+    }
+
+    @GetMapping("/suggest")
+    public Collection<String> suggestItemNames(@RequestParam("prefix") String prefix,
+                                               @RequestParam(defaultValue = "10") int size) {
+        return itemService.suggestItemNames(prefix, size);
     }
 }
\ No newline at end of file
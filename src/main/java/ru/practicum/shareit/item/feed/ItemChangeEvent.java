@@ -0,0 +1,15 @@
+package ru.practicum.shareit.item.feed;
+
+import lombok.Builder;
+import lombok.Data;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.storage.ItemChangeType;
+
+@Data
+@Builder(toBuilder = true)
+public class ItemChangeEvent {
+    private long sequence;
+    private ItemChangeType type;
+    private Long itemId;
+    private ItemDto item;
+}
@@ -0,0 +1,229 @@
+package ru.practicum.shareit.item.feed;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import ru.practicum.shareit.item.mapper.ItemMapper;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.storage.ItemChangeListener;
+import ru.practicum.shareit.item.storage.ItemChangeType;
+import ru.practicum.shareit.storage.IdGenerator;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Sequenced stream of item catalog mutations for Server-Sent Events subscribers.
+ * The last events are kept in a ring buffer, so a reconnecting client resumes from its Last-Event-ID.
+ * Publishing only appends to the buffer and wakes subscribers up: each subscriber is drained on its own
+ * virtual thread, everything that piled up since the previous send goes out as one batch, and a subscriber
+ * that falls further behind than the buffer gets a {@code reset} event telling it to reload the catalog.
+ * Event ids are {@code <epoch>-<sequence>}, where the epoch is unique per instance and boot, so a client
+ * resuming against another instance or after a restart also gets a {@code reset} instead of a silent gap.
+ * Idle subscribers get a heartbeat comment every {@code shareit.item.changes.heartbeat-interval}: emitters
+ * never time out, so a failed heartbeat write is how a vanished client gets dropped.
+ */
+@Component
+public class ItemChangeFeed implements ItemChangeListener {
+
+    private static final int MAX_BATCH_SIZE = 256;
+
+    private final long epoch;
+    private final ItemChangeEvent[] buffer;
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final ScheduledExecutorService heartbeats =
+            Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().name("item-changes-heartbeat").factory());
+    private long lastSequence;
+
+    public ItemChangeFeed(IdGenerator idGenerator,
+                          @Value("${shareit.item.changes.buffer-size:4096}") int bufferSize,
+                          @Value("${shareit.item.changes.heartbeat-interval:15s}") Duration heartbeatInterval) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("shareit.item.changes.buffer-size должен быть положительным");
+        }
+        if (heartbeatInterval.isNegative() || heartbeatInterval.isZero()) {
+            throw new IllegalArgumentException("shareit.item.changes.heartbeat-interval должен быть положительным");
+        }
+        this.epoch = idGenerator.nextId();
+        this.buffer = new ItemChangeEvent[bufferSize];
+        long intervalMillis = heartbeatInterval.toMillis();
+        heartbeats.scheduleAtFixedRate(() -> subscriptions.forEach(Subscription::heartbeat),
+                intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void onItemChange(ItemChangeType type, Long itemId, Item item) {
+        synchronized (this) {
+            long sequence = ++lastSequence;
+            buffer[(int) (sequence % buffer.length)] = ItemChangeEvent.builder()
+                    .sequence(sequence)
+                    .type(type)
+                    .itemId(itemId)
+                    .item(item != null ? ItemMapper.toItemDto(item) : null)
+                    .build();
+        }
+        subscriptions.forEach(Subscription::signal);
+    }
+
+    public SseEmitter subscribe(String lastEventId) {
+        return subscribe(lastEventId, new SseEmitter(0L));
+    }
+
+    SseEmitter subscribe(String lastEventId, SseEmitter emitter) {
+        Long resumeFrom = parseSequence(lastEventId);
+        long cursor;
+        boolean reset;
+        synchronized (this) {
+            reset = lastEventId != null && (resumeFrom == null || resumeFrom > lastSequence);
+            cursor = lastEventId == null || reset ? lastSequence : resumeFrom;
+        }
+
+        Subscription subscription = new Subscription(emitter, cursor, reset);
+        subscriptions.add(subscription);
+        emitter.onCompletion(() -> subscriptions.remove(subscription));
+        emitter.onTimeout(() -> subscriptions.remove(subscription));
+        emitter.onError(e -> subscriptions.remove(subscription));
+        subscription.signal();
+        return emitter;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeats.shutdownNow();
+        executor.shutdownNow();
+        subscriptions.forEach(subscription -> subscription.emitter.complete());
+        subscriptions.clear();
+    }
+
+    int subscriberCount() {
+        return subscriptions.size();
+    }
+
+    private Long parseSequence(String eventId) {
+        if (eventId == null) {
+            return null;
+        }
+        int separator = eventId.indexOf('-');
+        try {
+            if (separator < 0 || Long.parseLong(eventId.substring(0, separator)) != epoch) {
+                return null;
+            }
+            return Long.parseLong(eventId.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private String eventId(long sequence) {
+        return epoch + "-" + sequence;
+    }
+
+    private synchronized Batch readAfter(long cursor) {
+        long oldest = Math.max(1, lastSequence - buffer.length + 1);
+        long from = Math.max(cursor + 1, oldest);
+        long to = Math.min(lastSequence, from + MAX_BATCH_SIZE - 1);
+
+        List<ItemChangeEvent> events = new ArrayList<>();
+        for (long sequence = from; sequence <= to; sequence++) {
+            events.add(buffer[(int) (sequence % buffer.length)]);
+        }
+        return new Batch(cursor + 1 < oldest && !events.isEmpty(), events);
+    }
+
+    private synchronized boolean hasEventsAfter(long cursor) {
+        return lastSequence > cursor;
+    }
+
+    private record Batch(boolean gap, List<ItemChangeEvent> events) {
+    }
+
+    private class Subscription {
+        private final SseEmitter emitter;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile boolean heartbeatDue;
+        private long cursor;
+        private boolean resetPending;
+
+        Subscription(SseEmitter emitter, long cursor, boolean resetPending) {
+            this.emitter = emitter;
+            this.cursor = cursor;
+            this.resetPending = resetPending;
+        }
+
+        void signal() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    executor.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    // the feed is shutting down, subscribers are being completed
+                }
+            }
+        }
+
+        // heartbeats go through drain as well, so a subscriber never has two writers at once
+        void heartbeat() {
+            heartbeatDue = true;
+            signal();
+        }
+
+        private void drain() {
+            try {
+                if (resetPending) {
+                    sendReset();
+                    resetPending = false;
+                }
+                while (true) {
+                    Batch batch = readAfter(cursor);
+                    if (batch.events().isEmpty()) {
+                        if (heartbeatDue) {
+                            heartbeatDue = false;
+                            emitter.send(SseEmitter.event().comment("heartbeat"));
+                        }
+                        scheduled.set(false);
+                        if (!hasEventsAfter(cursor) && !heartbeatDue || !scheduled.compareAndSet(false, true)) {
+                            return;
+                        }
+                        continue;
+                    }
+
+                    if (batch.gap()) {
+                        sendReset();
+                    }
+                    long last = batch.events().get(batch.events().size() - 1).getSequence();
+                    heartbeatDue = false;
+                    emitter.send(SseEmitter.event()
+                            .id(eventId(last))
+                            .name("changes")
+                            .data(batch.events(), MediaType.APPLICATION_JSON));
+                    cursor = last;
+                }
+            } catch (Exception e) {
+                // whatever broke the send, a subscription left registered with scheduled stuck at true
+                // would never be drained again
+                scheduled.set(false);
+                subscriptions.remove(this);
+                emitter.completeWithError(e);
+            }
+        }
+
+        private void sendReset() throws IOException {
+            emitter.send(SseEmitter.event()
+                    .id(eventId(cursor))
+                    .name("reset")
+                    .data("Часть изменений утеряна, загрузите каталог заново"));
+        }
+    }
+}
@@ -2,6 +2,7 @@ package ru.practicum.shareit.item.service;
 
 import ru.practicum.shareit.item.dto.ItemDto;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
 
 public interface ItemService {
@@ -19,5 +20,7 @@ public interface ItemService {
 
     void deleteAllItems();
 
-    Collection<ItemDto> searchItems(String text);
+    Collection<ItemDto> searchItems(String text, LocalDateTime start, LocalDateTime end, Integer size);
+
+    Collection<String> suggestItemNames(String prefix, int size);
 }
\ No newline at end of file
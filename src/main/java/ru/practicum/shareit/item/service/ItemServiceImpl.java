@@ -2,6 +2,7 @@ package ru.practicum.shareit.item.service;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import ru.practicum.shareit.booking.BookingOccupancy;
 import ru.practicum.shareit.exception.ForbiddenException;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.item.dto.ItemDto;
@@ -11,18 +12,23 @@ import ru.practicum.shareit.item.storage.ItemStorage;
 import ru.practicum.shareit.user.User;
 import ru.practicum.shareit.user.UserStorage;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class ItemServiceImpl implements ItemService {
 
+    private static final int MAX_SUGGESTIONS = 50;
+
     private final ItemStorage itemStorage;
     private final UserStorage userStorage;
+    private final BookingOccupancy bookingOccupancy;
 
     @Override
     public ItemDto addItem(Long userId, ItemDto dto) {
@@ -94,27 +100,51 @@ public class ItemServiceImpl implements ItemService {
         }
 
         itemStorage.deleteItemById(itemId);
+        bookingOccupancy.removeItem(itemId);
     }
 
     @Override
     public void deleteAllItems() {
         itemStorage.deleteAllItems();
+        bookingOccupancy.clear();
     }
 
     @Override
-    public Collection<ItemDto> searchItems(String text) {
+    public Collection<ItemDto> searchItems(String text, LocalDateTime start, LocalDateTime end, Integer size) {
+        if ((start == null) != (end == null) || start != null && !start.isBefore(end)) {
+            throw new IllegalArgumentException("Дата начала должна быть раньше даты окончания");
+        }
+        if (size != null && size <= 0) {
+            throw new IllegalArgumentException("Размер выборки должен быть положительным");
+        }
         if (text == null || text.isBlank()) {
             return Collections.emptyList();
         }
 
         String lowerCaseText = text.toLowerCase();
-
-        List<Item> items = itemStorage.searchItems(lowerCaseText);
-        return items.stream()
-                .map(ItemMapper::toItemDto)
+        int limit = size != null ? size : Integer.MAX_VALUE;
+        Stream<Item> items = start == null
+                ? itemStorage.searchItems(lowerCaseText, limit).stream()
+                : itemStorage.searchItems(lowerCaseText).stream()
+                        .filter(item -> bookingOccupancy.isFree(item.getId(), start, end))
+                        .limit(limit);
+
+        return items.map(ItemMapper::toItemDto)
                 .toList();
     }
 
+    @Override
+    public Collection<String> suggestItemNames(String prefix, int size) {
+        if (prefix == null || prefix.isBlank()) {
+            return Collections.emptyList();
+        }
+        if (size <= 0 || size > MAX_SUGGESTIONS) {
+            throw new IllegalArgumentException("Количество подсказок должно быть от 1 до " + MAX_SUGGESTIONS);
+        }
+
+        return itemStorage.suggestItemNames(prefix, size);
+    }
+
     private User findUserById(Long userId) {
         return userStorage.findUserById(userId)
                 .orElseThrow(() -> new NotFoundException("Пользователь с ID=" + userId + " не найден"));
@@ -1,29 +1,59 @@
 package ru.practicum.shareit.item.storage;
 
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.storage.IdGenerator;
+import ru.practicum.shareit.storage.SnapshotMap;
 
 import java.util.*;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 @Component
 public class InMemoryItemStorage implements ItemStorage {
 
-    private final Map<Long, Item> items = new HashMap<>();
-    private final AtomicLong nextId = new AtomicLong(1);
+    private final SnapshotMap<Item> items = new SnapshotMap<>();
+    private final ItemNameTrie nameTrie = new ItemNameTrie();
+    private final IdGenerator idGenerator;
+    private final List<ItemChangeListener> changeListeners;
+    private final int parallelSearchThreshold;
+    private final ForkJoinPool searchPool;
+
+    public InMemoryItemStorage(IdGenerator idGenerator, List<ItemChangeListener> changeListeners,
+                               @Value("${shareit.item.search.parallel-threshold:10000}") int parallelSearchThreshold,
+                               @Value("${shareit.item.search.parallelism:0}") int searchParallelism) {
+        this.idGenerator = idGenerator;
+        this.changeListeners = List.copyOf(changeListeners);
+        this.parallelSearchThreshold = parallelSearchThreshold;
+        this.searchPool = new ForkJoinPool(searchParallelism > 0
+                ? searchParallelism
+                : Runtime.getRuntime().availableProcessors());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        searchPool.shutdownNow();
+    }
 
     @Override
-    public Item addItem(Item item) {
-        item.setId(nextId.getAndIncrement());
+    public synchronized Item addItem(Item item) {
+        item.setId(idGenerator.nextId());
         items.put(item.getId(), item);
+        indexName(item);
+        notifyListeners(ItemChangeType.CREATED, item.getId(), item);
         return item;
     }
 
     @Override
-    public Item updateItem(Long itemId, Item updatedItem) {
+    public synchronized Item updateItem(Long itemId, Item updatedItem) {
         updatedItem.setId(itemId);
-        items.put(itemId, updatedItem);
+        unindexName(items.put(itemId, updatedItem));
+        indexName(updatedItem);
+        notifyListeners(ItemChangeType.UPDATED, itemId, updatedItem);
         return updatedItem;
     }
 
@@ -34,7 +64,7 @@ public class InMemoryItemStorage implements ItemStorage {
 
     @Override
     public Collection<Item> getAllItems() {
-        return Collections.unmodifiableCollection(items.values());
+        return items.values();
     }
 
     @Override
@@ -45,30 +75,141 @@ public class InMemoryItemStorage implements ItemStorage {
     }
 
     @Override
-    public void deleteItemById(Long itemId) {
+    public synchronized void deleteItemById(Long itemId) {
         if (!items.containsKey(itemId)) {
             throw new NoSuchElementException("Вещь с ID=" + itemId + " не найдена");
         }
-        items.remove(itemId);
+        unindexName(items.remove(itemId));
+        notifyListeners(ItemChangeType.DELETED, itemId, null);
     }
 
     @Override
-    public void deleteAllItems() {
+    public synchronized void deleteAllItems() {
         items.clear();
+        nameTrie.clear();
+        notifyListeners(ItemChangeType.CLEARED, null, null);
     }
 
     @Override
     public List<Item> searchItems(String text) {
-        if (text == null || text.isBlank()) {
+        return searchItems(text, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public List<Item> searchItems(String text, int limit) {
+        if (text == null || text.isBlank() || limit <= 0) {
             return Collections.emptyList();
         }
 
         String lowerCaseText = text.toLowerCase();
+        List<Collection<Item>> segments = items.segments();
 
-        return items.values().stream()
-                .filter(item -> item.getAvailable() &&
-                        (item.getName().toLowerCase().contains(lowerCaseText) ||
-                                item.getDescription().toLowerCase().contains(lowerCaseText)))
-                .collect(Collectors.toList());
+        if (items.size() < parallelSearchThreshold) {
+            return segments.stream()
+                    .flatMap(Collection::stream)
+                    .filter(item -> matches(item, lowerCaseText))
+                    .limit(limit)
+                    .collect(Collectors.toList());
+        }
+        if (segments.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        AtomicInteger filledPrefix = limit == Integer.MAX_VALUE ? null : new AtomicInteger(segments.size());
+        return searchPool.invoke(new SearchTask(segments, 0, segments.size(), lowerCaseText, limit, filledPrefix));
+    }
+
+    @Override
+    public List<String> suggestItemNames(String prefix, int limit) {
+        return nameTrie.suggest(prefix, limit);
+    }
+
+    private void notifyListeners(ItemChangeType type, Long itemId, Item item) {
+        changeListeners.forEach(listener -> listener.onItemChange(type, itemId, item));
+    }
+
+    private void indexName(Item item) {
+        if (item != null && Boolean.TRUE.equals(item.getAvailable())) {
+            nameTrie.add(item.getName());
+        }
+    }
+
+    private void unindexName(Item item) {
+        if (item != null && Boolean.TRUE.equals(item.getAvailable())) {
+            nameTrie.remove(item.getName());
+        }
+    }
+
+    private static boolean matches(Item item, String lowerCaseText) {
+        return item.getAvailable() &&
+                (item.getName().toLowerCase().contains(lowerCaseText) ||
+                        item.getDescription().toLowerCase().contains(lowerCaseText));
+    }
+
+    /**
+     * Scans a range of snapshot segments, halving it down to single segments, and returns the matches in id order,
+     * so a limited search gives the same first matches as the sequential scan.
+     * With a limit, {@code filledPrefix} holds the end of the shortest run of segments from the start known to hold
+     * enough matches: everything past it would be trimmed anyway, so those segments are skipped. Only tasks starting
+     * at segment 0 move it. Unbounded searches skip it so workers never touch a shared cache line.
+     */
+    private static class SearchTask extends RecursiveTask<List<Item>> {
+        private final List<Collection<Item>> segments;
+        private final int from;
+        private final int to;
+        private final String text;
+        private final int limit;
+        private final AtomicInteger filledPrefix;
+
+        SearchTask(List<Collection<Item>> segments, int from, int to, String text, int limit,
+                   AtomicInteger filledPrefix) {
+            this.segments = segments;
+            this.from = from;
+            this.to = to;
+            this.text = text;
+            this.limit = limit;
+            this.filledPrefix = filledPrefix;
+        }
+
+        @Override
+        protected List<Item> compute() {
+            if (filledPrefix != null && from >= filledPrefix.get()) {
+                return Collections.emptyList();
+            }
+
+            if (to - from == 1) {
+                List<Item> result = new ArrayList<>();
+                for (Item item : segments.get(from)) {
+                    if (matches(item, text)) {
+                        result.add(item);
+                        if (result.size() >= limit) {
+                            break;
+                        }
+                    }
+                }
+                markFilled(result);
+                return result;
+            }
+
+            int middle = (from + to) >>> 1;
+            SearchTask right = new SearchTask(segments, middle, to, text, limit, filledPrefix);
+            right.fork();
+            List<Item> result = new ArrayList<>(new SearchTask(segments, from, middle, text, limit, filledPrefix)
+                    .compute());
+            if (result.size() < limit) {
+                result.addAll(right.join());
+            } else {
+                // the right half could only add matches past the limit
+                right.cancel(false);
+            }
+            markFilled(result);
+            return result.size() > limit ? result.subList(0, limit) : result;
+        }
+
+        private void markFilled(List<Item> result) {
+            if (filledPrefix != null && from == 0 && result.size() >= limit) {
+                filledPrefix.accumulateAndGet(to, Math::min);
+            }
+        }
     }
-}
\ No newline at end of file
+}
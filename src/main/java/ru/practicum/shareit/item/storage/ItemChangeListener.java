@@ -0,0 +1,16 @@
+package ru.practicum.shareit.item.storage;
+
+import ru.practicum.shareit.item.model.Item;
+
+/**
+ * Receives item catalog mutations in the order the storage applies them.
+ * Called while the storage holds its write lock, so implementations must only hand the change off.
+ */
+public interface ItemChangeListener {
+
+    /**
+     * @param itemId affected item, {@code null} for {@link ItemChangeType#CLEARED}
+     * @param item   item state after the change, {@code null} for deletions
+     */
+    void onItemChange(ItemChangeType type, Long itemId, Item item);
+}
@@ -0,0 +1,8 @@
+package ru.practicum.shareit.item.storage;
+
+public enum ItemChangeType {
+    CREATED,
+    UPDATED,
+    DELETED,
+    CLEARED
+}
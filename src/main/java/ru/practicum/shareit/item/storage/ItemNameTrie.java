@@ -0,0 +1,132 @@
+package ru.practicum.shareit.item.storage;
+
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * Prefix tree over normalized tokens of available item names.
+ * Every node keeps how many tokens pass through it, so the most frequent completions
+ * can be found best-first without visiting the whole subtree, and nodes nobody uses are pruned.
+ */
+class ItemNameTrie {
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final Node root = new Node();
+
+    static List<String> tokenize(String name) {
+        if (name == null || name.isBlank()) {
+            return Collections.emptyList();
+        }
+        return Arrays.stream(TOKEN_SEPARATOR.split(name.toLowerCase()))
+                .filter(token -> !token.isEmpty())
+                .toList();
+    }
+
+    synchronized void add(String name) {
+        for (String token : tokenize(name)) {
+            Node node = root;
+            node.weight++;
+            for (int i = 0; i < token.length(); i++) {
+                node = node.children.computeIfAbsent(token.charAt(i), c -> new Node());
+                node.weight++;
+            }
+            node.count++;
+        }
+    }
+
+    synchronized void remove(String name) {
+        for (String token : tokenize(name)) {
+            if (contains(token)) {
+                root.weight--;
+                remove(root, token, 0);
+            }
+        }
+    }
+
+    synchronized void clear() {
+        root.children.clear();
+        root.weight = 0;
+        root.count = 0;
+    }
+
+    synchronized List<String> suggest(String prefix, int limit) {
+        List<String> prefixTokens = tokenize(prefix);
+        if (prefixTokens.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        String normalizedPrefix = prefixTokens.get(prefixTokens.size() - 1);
+        Node start = find(normalizedPrefix);
+        if (start == null) {
+            return Collections.emptyList();
+        }
+
+        PriorityQueue<Candidate> queue = new PriorityQueue<>();
+        queue.add(new Candidate(start, normalizedPrefix, start.weight, false));
+        List<String> result = new ArrayList<>();
+        while (!queue.isEmpty() && result.size() < limit) {
+            Candidate candidate = queue.poll();
+            if (candidate.complete) {
+                result.add(candidate.word);
+                continue;
+            }
+            Node node = candidate.node;
+            if (node.count > 0) {
+                queue.add(new Candidate(node, candidate.word, node.count, true));
+            }
+            node.children.forEach((c, child) ->
+                    queue.add(new Candidate(child, candidate.word + c, child.weight, false)));
+        }
+        return result;
+    }
+
+    synchronized boolean isEmpty() {
+        return root.children.isEmpty();
+    }
+
+    private boolean contains(String token) {
+        Node node = find(token);
+        return node != null && node.count > 0;
+    }
+
+    private Node find(String token) {
+        Node node = root;
+        for (int i = 0; i < token.length() && node != null; i++) {
+            node = node.children.get(token.charAt(i));
+        }
+        return node;
+    }
+
+    private void remove(Node parent, String token, int index) {
+        if (index == token.length()) {
+            parent.count--;
+            return;
+        }
+        Node child = parent.children.get(token.charAt(index));
+        child.weight--;
+        remove(child, token, index + 1);
+        if (child.weight == 0) {
+            parent.children.remove(token.charAt(index));
+        }
+    }
+
+    private static class Node {
+        private final Map<Character, Node> children = new TreeMap<>();
+        private int weight;
+        private int count;
+    }
+
+    private record Candidate(Node node, String word, int score, boolean complete) implements Comparable<Candidate> {
+        @Override
+        public int compareTo(Candidate other) {
+            if (score != other.score) {
+                return Integer.compare(other.score, score);
+            }
+            if (complete != other.complete) {
+                return complete ? -1 : 1;
+            }
+            return word.compareTo(other.word);
+        }
+    }
+}
@@ -22,4 +22,8 @@ public interface ItemStorage {
     void deleteAllItems();
 
     List<Item> searchItems(String text);
+
+    List<Item> searchItems(String text, int limit);
+
+    List<String> suggestItemNames(String prefix, int limit);
 }
\ No newline at end of file
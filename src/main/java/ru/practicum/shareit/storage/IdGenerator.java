@@ -0,0 +1,5 @@
+package ru.practicum.shareit.storage;
+
+public interface IdGenerator {
+    long nextId();
+}
@@ -0,0 +1,140 @@
+package ru.practicum.shareit.storage;
+
+import java.util.*;
+
+/**
+ * Long-keyed map for the in-memory stores that serves every read from an immutable version.
+ * Entries live in key-ordered copy-on-write segments: a write copies only the segment it touches
+ * plus the small segment table and publishes the new version with a single volatile store.
+ * Readers never lock and never see a half-applied write; {@link #values()} is O(1).
+ */
+public class SnapshotMap<V> {
+
+    private static final int SEGMENT_SIZE = 512;
+
+    private volatile Version<V> version = new Version<>(List.of(), 0);
+
+    public V get(Long key) {
+        Version<V> current = version;
+        if (current.segments.isEmpty()) {
+            return null;
+        }
+        return current.segments.get(segmentIndex(current.segments, key)).get(key);
+    }
+
+    public boolean containsKey(Long key) {
+        return get(key) != null;
+    }
+
+    public int size() {
+        return version.size;
+    }
+
+    public synchronized V put(Long key, V value) {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(value);
+        Version<V> current = version;
+        List<NavigableMap<Long, V>> segments = new ArrayList<>(current.segments);
+        if (segments.isEmpty()) {
+            segments.add(new TreeMap<>(Map.of(key, value)));
+            version = new Version<>(segments, 1);
+            return null;
+        }
+
+        int index = segmentIndex(segments, key);
+        NavigableMap<Long, V> segment = new TreeMap<>(segments.get(index));
+        V previous = segment.put(key, value);
+        if (segment.size() > 2 * SEGMENT_SIZE) {
+            Long splitKey = segment.keySet().stream().skip(SEGMENT_SIZE).findFirst().orElseThrow();
+            segments.set(index, new TreeMap<>(segment.headMap(splitKey, false)));
+            segments.add(index + 1, new TreeMap<>(segment.tailMap(splitKey, true)));
+        } else {
+            segments.set(index, segment);
+        }
+        version = new Version<>(segments, previous == null ? current.size + 1 : current.size);
+        return previous;
+    }
+
+    public synchronized V remove(Long key) {
+        Version<V> current = version;
+        if (current.segments.isEmpty()) {
+            return null;
+        }
+
+        int index = segmentIndex(current.segments, key);
+        if (!current.segments.get(index).containsKey(key)) {
+            return null;
+        }
+
+        List<NavigableMap<Long, V>> segments = new ArrayList<>(current.segments);
+        NavigableMap<Long, V> segment = new TreeMap<>(segments.get(index));
+        V previous = segment.remove(key);
+        if (segment.isEmpty()) {
+            segments.remove(index);
+        } else {
+            segments.set(index, segment);
+        }
+        version = new Version<>(segments, current.size - 1);
+        return previous;
+    }
+
+    public synchronized void clear() {
+        version = new Version<>(List.of(), 0);
+    }
+
+    /**
+     * Returns an unmodifiable, key-ordered view of the version current at the time of the call.
+     * Later writes are not visible through it, so it can be iterated or serialized at leisure.
+     */
+    public Collection<V> values() {
+        Version<V> current = version;
+        return new AbstractCollection<>() {
+            @Override
+            public Iterator<V> iterator() {
+                return current.segments.stream()
+                        .flatMap(segment -> segment.values().stream())
+                        .iterator();
+            }
+
+            @Override
+            public int size() {
+                return current.size;
+            }
+        };
+    }
+
+    /**
+     * Returns the version current at the time of the call as its key-ordered segments, each an unmodifiable
+     * view of at most {@code 2 * SEGMENT_SIZE} values. Bulk readers can split work on segment boundaries
+     * without copying the values out first.
+     */
+    public List<Collection<V>> segments() {
+        return version.segments.stream()
+                .map(segment -> Collections.unmodifiableCollection(segment.values()))
+                .toList();
+    }
+
+    private static <V> int segmentIndex(List<NavigableMap<Long, V>> segments, Long key) {
+        int low = 0;
+        int high = segments.size() - 1;
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            if (segments.get(middle).firstKey() <= key) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return low;
+    }
+
+    private static class Version<V> {
+        private final List<NavigableMap<Long, V>> segments;
+        private final int size;
+
+        Version(List<NavigableMap<Long, V>> segments, int size) {
+            this.segments = segments;
+            this.size = size;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package ru.practicum.shareit.storage;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Time-ordered ids: milliseconds since {@link #EPOCH_MILLIS}, then the node id, then a per-millisecond sequence.
+ * The layout is kept within 53 bits so ids survive JSON clients that parse numbers as doubles.
+ * The last issued timestamp and sequence live in one {@link AtomicLong}, so threads only ever retry a CAS.
+ * If the clock goes backwards or the sequence is exhausted, the generator keeps counting from
+ * the last issued value, so ids on a node never repeat and never decrease.
+ * There is no default node id outside the dev profile: two instances sharing one would issue the same ids.
+ */
+@Component
+public class TimeOrderedIdGenerator implements IdGenerator {
+
+    private static final long EPOCH_MILLIS = 1704067200000L;
+    private static final int NODE_BITS = 5;
+    private static final int SEQUENCE_BITS = 7;
+    private static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long NODE_ID_UNSET = -1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final long nodeId;
+    private final LongSupplier clock;
+    private final AtomicLong lastTick = new AtomicLong();
+
+    @Autowired
+    public TimeOrderedIdGenerator(@Value("${shareit.id.node-id:-1}") long nodeId) {
+        this(nodeId, System::currentTimeMillis);
+    }
+
+    TimeOrderedIdGenerator(long nodeId, LongSupplier clock) {
+        if (nodeId == NODE_ID_UNSET) {
+            throw new IllegalStateException("Не задан shareit.id.node-id: у каждого экземпляра приложения "
+                    + "должен быть свой номер от 0 до " + MAX_NODE_ID);
+        }
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("shareit.id.node-id должен быть в диапазоне от 0 до " + MAX_NODE_ID);
+        }
+        this.nodeId = nodeId;
+        this.clock = clock;
+    }
+
+    @Override
+    public long nextId() {
+        long tick;
+        while (true) {
+            long last = lastTick.get();
+            long now = (clock.getAsLong() - EPOCH_MILLIS) << SEQUENCE_BITS;
+            tick = Math.max(now, last + 1);
+            if (lastTick.compareAndSet(last, tick)) {
+                break;
+            }
+        }
+        long timestamp = tick >>> SEQUENCE_BITS;
+        return (timestamp << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | (tick & SEQUENCE_MASK);
+    }
+}
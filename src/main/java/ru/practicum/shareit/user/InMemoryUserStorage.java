@@ -1,28 +1,35 @@
 package ru.practicum.shareit.user;
 
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 import ru.practicum.shareit.exception.ConflictException;
+import ru.practicum.shareit.storage.IdGenerator;
+import ru.practicum.shareit.storage.SnapshotMap;
 
 import java.util.*;
-import java.util.concurrent.atomic.AtomicLong;
 
 @Repository
+@RequiredArgsConstructor
 public class InMemoryUserStorage implements UserStorage {
 
-    private final Map<Long, User> users = new HashMap<>();
-    private final AtomicLong nextId = new AtomicLong(1);
+    private final IdGenerator idGenerator;
+    private final SnapshotMap<User> users = new SnapshotMap<>();
     private final Set<String> emails = new HashSet<>();
 
     @Override
-    public User addUser(User user) {
-        user.setUserId(nextId.getAndIncrement());
+    public synchronized User addUser(User user) {
+        if (emails.contains(user.getEmail())) {
+            throw new ConflictException("Пользователь с таким email уже существует");
+        }
+
+        user.setUserId(idGenerator.nextId());
         users.put(user.getUserId(), user);
         emails.add(user.getEmail());
         return user;
     }
 
     @Override
-    public User updateUser(long id, User updateUser) {
+    public synchronized User updateUser(long id, User updateUser) {
         User existingUser = users.get(id);
         if (existingUser == null) {
             throw new NoSuchElementException("Пользователь с ID=" + id + " не найден");
@@ -43,7 +50,7 @@ public class InMemoryUserStorage implements UserStorage {
 
     @Override
     public Collection<User> getAllUsers() {
-        return Collections.unmodifiableCollection(users.values());
+        return users.values();
     }
 
     @Override
@@ -52,7 +59,7 @@ public class InMemoryUserStorage implements UserStorage {
     }
 
     @Override
-    public void deleteUserById(long id) {
+    public synchronized void deleteUserById(long id) {
         if (!users.containsKey(id)) {
             throw new NoSuchElementException("Пользователь с ID=" + id + " не найден");
         }
@@ -61,7 +68,7 @@ public class InMemoryUserStorage implements UserStorage {
     }
 
     @Override
-    public void deleteAllUsers() {
+    public synchronized void deleteAllUsers() {
         users.clear();
         emails.clear();
     }
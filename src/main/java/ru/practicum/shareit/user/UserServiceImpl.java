@@ -2,11 +2,9 @@ package ru.practicum.shareit.user;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import ru.practicum.shareit.exception.ConflictException;
 import ru.practicum.shareit.exception.NotFoundException;
 
 import java.util.Collection;
-import java.util.Objects;
 
 @Service
 @RequiredArgsConstructor
@@ -16,11 +14,6 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public UserDto addUser(UserDto dto) {
-        if (userStorage.getAllUsers().stream()
-                .anyMatch(u -> Objects.equals(u.getEmail(), dto.getEmail()))) {
-            throw new ConflictException("Пользователь с таким email уже существует");
-        }
-
         User user = UserMapper.toUser(dto);
         User savedUser = userStorage.addUser(user);
         return UserMapper.toUserDto(savedUser);
@@ -0,0 +1,131 @@
+package ru.practicum.shareit.booking;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BookingOccupancyTest {
+
+    private static final Long ITEM_ID = 1L;
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 5, 1, 0, 0);
+
+    private final BookingOccupancy occupancy = new BookingOccupancy();
+
+    @Test
+    void overlappingPeriodsAreMerged() {
+        occupancy.occupy(ITEM_ID, at(10), at(12));
+        occupancy.occupy(ITEM_ID, at(11), at(14));
+        occupancy.occupy(ITEM_ID, at(9), at(10));
+
+        assertThat(isFree(9, 14)).isFalse();
+        assertThat(isFree(12, 14)).isFalse();
+        assertThat(isFree(14, 15)).isTrue();
+        assertThat(isFree(8, 9)).isTrue();
+
+        occupancy.release(ITEM_ID, at(9), at(14));
+        assertThat(isFree(0, 24)).isTrue();
+    }
+
+    @Test
+    void adjacentPeriodsAreMerged() {
+        occupancy.occupy(ITEM_ID, at(10), at(12));
+        occupancy.occupy(ITEM_ID, at(12), at(14));
+
+        assertThat(isFree(11, 13)).isFalse();
+
+        occupancy.release(ITEM_ID, at(10), at(14));
+        assertThat(isFree(10, 14)).isTrue();
+    }
+
+    @Test
+    void periodSwallowingSeveralOthersIsMerged() {
+        occupancy.occupy(ITEM_ID, at(10), at(11));
+        occupancy.occupy(ITEM_ID, at(12), at(13));
+        occupancy.occupy(ITEM_ID, at(14), at(15));
+        occupancy.occupy(ITEM_ID, at(9), at(16));
+
+        assertThat(isFree(11, 12)).isFalse();
+        assertThat(isFree(15, 16)).isFalse();
+        assertThat(isFree(16, 17)).isTrue();
+    }
+
+    @Test
+    void releasingMiddleSplitsPeriod() {
+        occupancy.occupy(ITEM_ID, at(10), at(20));
+
+        occupancy.release(ITEM_ID, at(13), at(15));
+
+        assertThat(isFree(13, 15)).isTrue();
+        assertThat(isFree(12, 13)).isFalse();
+        assertThat(isFree(15, 16)).isFalse();
+        assertThat(isFree(12, 16)).isFalse();
+        assertThat(isFree(19, 20)).isFalse();
+    }
+
+    @Test
+    void releasingAcrossSeveralPeriodsTrimsEdges() {
+        occupancy.occupy(ITEM_ID, at(10), at(12));
+        occupancy.occupy(ITEM_ID, at(14), at(16));
+        occupancy.occupy(ITEM_ID, at(18), at(20));
+
+        occupancy.release(ITEM_ID, at(11), at(19));
+
+        assertThat(isFree(11, 19)).isTrue();
+        assertThat(isFree(10, 11)).isFalse();
+        assertThat(isFree(19, 20)).isFalse();
+        assertThat(isFree(20, 21)).isTrue();
+    }
+
+    @Test
+    void releasingFreePeriodChangesNothing() {
+        occupancy.occupy(ITEM_ID, at(10), at(12));
+
+        occupancy.release(ITEM_ID, at(12), at(14));
+        occupancy.release(2L, at(10), at(12));
+
+        assertThat(isFree(10, 12)).isFalse();
+    }
+
+    @Test
+    void periodsAreHalfOpen() {
+        occupancy.occupy(ITEM_ID, at(10), at(12));
+
+        assertThat(isFree(8, 10)).isTrue();
+        assertThat(isFree(12, 14)).isTrue();
+        assertThat(isFree(9, 11)).isFalse();
+        assertThat(isFree(11, 13)).isFalse();
+        assertThat(isFree(10, 12)).isFalse();
+        assertThat(isFree(8, 14)).isFalse();
+    }
+
+    @Test
+    void unknownAndRemovedItemsAreFree() {
+        occupancy.occupy(ITEM_ID, at(10), at(12));
+
+        assertThat(occupancy.isFree(2L, at(10), at(12))).isTrue();
+
+        occupancy.removeItem(ITEM_ID);
+        assertThat(isFree(10, 12)).isTrue();
+    }
+
+    @Test
+    void invalidPeriodIsRejected() {
+        assertThatThrownBy(() -> occupancy.occupy(ITEM_ID, at(12), at(10)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> occupancy.occupy(ITEM_ID, at(10), at(10)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> occupancy.release(ITEM_ID, null, at(10)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private boolean isFree(int startHour, int endHour) {
+        return occupancy.isFree(ITEM_ID, at(startHour), at(endHour));
+    }
+
+    private static LocalDateTime at(int hour) {
+        return BASE.plusHours(hour);
+    }
+}
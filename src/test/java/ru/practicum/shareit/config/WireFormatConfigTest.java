@@ -0,0 +1,109 @@
+package ru.practicum.shareit.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.storage.ItemStorage;
+import ru.practicum.shareit.user.User;
+import ru.practicum.shareit.user.UserStorage;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class WireFormatConfigTest {
+
+    private static final String CBOR = "application/cbor";
+    private static final String SMILE = "application/x-jackson-smile";
+
+    private final ObjectMapper cborMapper = new ObjectMapper(new CBORFactory());
+    private final ObjectMapper smileMapper = new ObjectMapper(new SmileFactory());
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserStorage userStorage;
+
+    @Autowired
+    private ItemStorage itemStorage;
+
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        itemStorage.deleteAllItems();
+        userStorage.deleteAllUsers();
+        owner = userStorage.addUser(User.builder().name("Иван").email("ivan@example.com").build());
+        itemStorage.addItem(Item.builder()
+                .name("Дрель")
+                .description("Простая дрель")
+                .available(true)
+                .owner(owner)
+                .build());
+    }
+
+    @Test
+    void usersNegotiateCbor() throws Exception {
+        JsonNode users = cborMapper.readTree(fetch(get("/users"), CBOR));
+
+        assertThat(users.get(0).get("email").asText()).isEqualTo("ivan@example.com");
+    }
+
+    @Test
+    void usersNegotiateSmile() throws Exception {
+        JsonNode users = smileMapper.readTree(fetch(get("/users"), SMILE));
+
+        assertThat(users.get(0).get("email").asText()).isEqualTo("ivan@example.com");
+    }
+
+    @Test
+    void itemsNegotiateCbor() throws Exception {
+        JsonNode items = cborMapper.readTree(fetch(get("/items")
+                .header("X-Sharer-User-Id", owner.getUserId()), CBOR));
+
+        assertThat(items.get(0).get("name").asText()).isEqualTo("Дрель");
+    }
+
+    @Test
+    void itemsNegotiateSmile() throws Exception {
+        JsonNode items = smileMapper.readTree(fetch(get("/items")
+                .header("X-Sharer-User-Id", owner.getUserId()), SMILE));
+
+        assertThat(items.get(0).get("name").asText()).isEqualTo("Дрель");
+    }
+
+    @Test
+    void cborRequestBodyIsAccepted() throws Exception {
+        byte[] body = cborMapper.writeValueAsBytes(Map.of("name", "Пётр", "email", "petr@example.com"));
+
+        JsonNode user = cborMapper.readTree(fetch(post("/users").contentType(CBOR).content(body), CBOR));
+
+        assertThat(user.get("id").asLong()).isPositive();
+        assertThat(user.get("email").asText()).isEqualTo("petr@example.com");
+    }
+
+    private byte[] fetch(MockHttpServletRequestBuilder request, String mediaType) throws Exception {
+        return mockMvc.perform(request.accept(mediaType))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(mediaType))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+    }
+}
@@ -0,0 +1,120 @@
+package ru.practicum.shareit.item;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.booking.BookingOccupancy;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.item.storage.ItemStorage;
+import ru.practicum.shareit.user.User;
+import ru.practicum.shareit.user.UserStorage;
+
+import java.time.LocalDateTime;
+
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ItemControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private UserStorage userStorage;
+
+    @Autowired
+    private ItemStorage itemStorage;
+
+    @Autowired
+    private BookingOccupancy bookingOccupancy;
+
+    @BeforeEach
+    void setUp() {
+        itemService.deleteAllItems();
+        userStorage.deleteAllUsers();
+    }
+
+    @Test
+    void suggestRejectsSizeAboveMaximum() throws Exception {
+        mockMvc.perform(get("/items/suggest").param("prefix", "д").param("size", "51"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/items/suggest").param("prefix", "д").param("size", String.valueOf(Integer.MAX_VALUE)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void suggestAcceptsSizeWithinMaximum() throws Exception {
+        mockMvc.perform(get("/items/suggest").param("prefix", "д").param("size", "50"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void searchRejectsHalfOpenWindow() throws Exception {
+        mockMvc.perform(get("/items/search").param("text", "дрель").param("start", "2026-05-01T10:00:00"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/items/search").param("text", "дрель").param("end", "2026-05-03T10:00:00"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void searchRejectsWindowEndingBeforeStart() throws Exception {
+        mockMvc.perform(get("/items/search")
+                        .param("text", "дрель")
+                        .param("start", "2026-05-03T10:00:00")
+                        .param("end", "2026-05-01T10:00:00"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void searchAcceptsFullWindow() throws Exception {
+        mockMvc.perform(get("/items/search")
+                        .param("text", "дрель")
+                        .param("start", "2026-05-01T10:00:00")
+                        .param("end", "2026-05-03T10:00:00"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void searchSkipsItemsBookedWithinWindow() throws Exception {
+        User owner = userStorage.addUser(User.builder().name("Иван").email("ivan@example.com").build());
+        Item booked = itemStorage.addItem(item("Дрель ударная", owner));
+        itemStorage.addItem(item("Дрель аккумуляторная", owner));
+        bookingOccupancy.occupy(booked.getId(),
+                LocalDateTime.parse("2026-05-01T10:00:00"), LocalDateTime.parse("2026-05-03T10:00:00"));
+
+        mockMvc.perform(get("/items/search")
+                        .param("text", "дрель")
+                        .param("start", "2026-05-02T10:00:00")
+                        .param("end", "2026-05-04T10:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].name", containsInAnyOrder("Дрель аккумуляторная")));
+
+        // periods are half-open, so a window starting exactly when the booking ends is free
+        mockMvc.perform(get("/items/search")
+                        .param("text", "дрель")
+                        .param("start", "2026-05-03T10:00:00")
+                        .param("end", "2026-05-04T10:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].name", containsInAnyOrder("Дрель ударная", "Дрель аккумуляторная")));
+    }
+
+    private static Item item(String name, User owner) {
+        return Item.builder()
+                .name(name)
+                .description(name)
+                .available(true)
+                .owner(owner)
+                .build();
+    }
+}
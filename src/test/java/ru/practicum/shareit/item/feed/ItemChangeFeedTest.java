@@ -0,0 +1,202 @@
+package ru.practicum.shareit.item.feed;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import ru.practicum.shareit.item.storage.ItemChangeType;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ItemChangeFeedTest {
+
+    private static final long EPOCH = 77L;
+    private static final Duration NO_HEARTBEAT = Duration.ofHours(1);
+
+    private ItemChangeFeed feed = new ItemChangeFeed(() -> EPOCH, 4, NO_HEARTBEAT);
+
+    @AfterEach
+    void tearDown() {
+        feed.shutdown();
+    }
+
+    @Test
+    void newSubscriberOnlyGetsLaterChanges() throws Exception {
+        publish(1);
+        RecordingEmitter emitter = subscribe(null);
+
+        publish(1);
+
+        assertChanges(emitter.next(), 2);
+    }
+
+    @Test
+    void resumesAfterKnownEventId() throws Exception {
+        publish(3);
+
+        RecordingEmitter emitter = subscribe(EPOCH + "-1");
+
+        assertChanges(emitter.next(), 2, 3);
+    }
+
+    @Test
+    void changesQueuedDuringSendArriveAsOneBatch() throws Exception {
+        RecordingEmitter emitter = new RecordingEmitter();
+        emitter.blockSends();
+        feed.subscribe(null, emitter);
+
+        publish(1);
+        emitter.awaitSendStarted();
+        publish(3);
+        emitter.unblockSends();
+
+        assertChanges(emitter.next(), 1);
+        assertChanges(emitter.next(), 2, 3, 4);
+    }
+
+    @Test
+    void resetsWhenEventIdFellOutOfBuffer() throws Exception {
+        publish(10);
+
+        RecordingEmitter emitter = subscribe(EPOCH + "-2");
+
+        assertThat(emitter.next().name()).isEqualTo("reset");
+        assertChanges(emitter.next(), 7, 8, 9, 10);
+    }
+
+    @Test
+    void resetsWhenEventIdComesFromAnotherEpoch() throws Exception {
+        publish(3);
+
+        RecordingEmitter emitter = subscribe("12-2");
+
+        Sent reset = emitter.next();
+        assertThat(reset.name()).isEqualTo("reset");
+        assertThat(reset.id()).isEqualTo(EPOCH + "-3");
+
+        publish(1);
+        assertChanges(emitter.next(), 4);
+    }
+
+    @Test
+    void idleSubscriberGetsHeartbeat() throws Exception {
+        feed.shutdown();
+        feed = new ItemChangeFeed(() -> EPOCH, 4, Duration.ofMillis(20));
+
+        RecordingEmitter emitter = subscribe(null);
+
+        assertThat(emitter.next().comment()).isTrue();
+    }
+
+    @Test
+    void failingSubscriberIsDropped() throws Exception {
+        feed.subscribe(null, new SseEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) {
+                throw new UnsupportedOperationException("boom");
+            }
+        });
+        assertThat(feed.subscriberCount()).isEqualTo(1);
+
+        publish(1);
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (feed.subscriberCount() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(feed.subscriberCount()).isZero();
+    }
+
+    private RecordingEmitter subscribe(String lastEventId) {
+        RecordingEmitter emitter = new RecordingEmitter();
+        feed.subscribe(lastEventId, emitter);
+        return emitter;
+    }
+
+    private void publish(int count) {
+        for (int i = 0; i < count; i++) {
+            feed.onItemChange(ItemChangeType.DELETED, (long) i, null);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void assertChanges(Sent sent, long... sequences) {
+        assertThat(sent.name()).isEqualTo("changes");
+        assertThat(sent.id()).isEqualTo(EPOCH + "-" + sequences[sequences.length - 1]);
+        assertThat((List<ItemChangeEvent>) sent.data())
+                .extracting(ItemChangeEvent::getSequence)
+                .containsExactly(Arrays.stream(sequences).boxed().toArray(Long[]::new));
+    }
+
+    private record Sent(String id, String name, Object data, boolean comment) {
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+        private final BlockingQueue<Sent> sent = new LinkedBlockingQueue<>();
+        private final CountDownLatch sendStarted = new CountDownLatch(1);
+        private volatile CountDownLatch gate;
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            sendStarted.countDown();
+            CountDownLatch currentGate = gate;
+            if (currentGate != null) {
+                try {
+                    currentGate.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+
+            StringBuilder text = new StringBuilder();
+            Object data = null;
+            for (ResponseBodyEmitter.DataWithMediaType part : builder.build()) {
+                if (part.getData() instanceof String string) {
+                    text.append(string);
+                } else {
+                    data = part.getData();
+                }
+            }
+            String lines = text.toString();
+            sent.add(new Sent(field(lines, "id:"), field(lines, "event:"),
+                    data != null ? data : field(lines, "data:"), lines.startsWith(":")));
+        }
+
+        Sent next() throws InterruptedException {
+            Sent next = sent.poll(5, TimeUnit.SECONDS);
+            assertThat(next).as("событие не отправлено").isNotNull();
+            return next;
+        }
+
+        void blockSends() {
+            gate = new CountDownLatch(1);
+        }
+
+        void awaitSendStarted() throws InterruptedException {
+            assertThat(sendStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+
+        void unblockSends() {
+            gate.countDown();
+            gate = null;
+        }
+
+        private static String field(String lines, String prefix) {
+            for (String line : lines.split("\n")) {
+                if (line.startsWith(prefix)) {
+                    return line.substring(prefix.length());
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package ru.practicum.shareit.item.storage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.storage.TimeOrderedIdGenerator;
+import ru.practicum.shareit.user.User;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryItemStorageTest {
+
+    private final TimeOrderedIdGenerator idGenerator = new TimeOrderedIdGenerator(0);
+    private final InMemoryItemStorage storage = new InMemoryItemStorage(idGenerator, List.of(), 10000, 1);
+    private final User owner = User.builder().userId(1L).name("owner").email("owner@example.com").build();
+
+    private final InMemoryItemStorage parallelStorage = new InMemoryItemStorage(idGenerator, List.of(), 0, 4);
+
+    @AfterEach
+    void tearDown() {
+        storage.shutdown();
+        parallelStorage.shutdown();
+    }
+
+    @Test
+    void suggestionsFollowAvailabilityChanges() {
+        Item item = storage.addItem(item("Дрель ударная", true));
+        assertThat(storage.suggestItemNames("др", 5)).containsExactly("дрель");
+
+        storage.updateItem(item.getId(), item("Дрель ударная", false));
+        assertThat(storage.suggestItemNames("др", 5)).isEmpty();
+
+        storage.updateItem(item.getId(), item("Дрель ударная", true));
+        assertThat(storage.suggestItemNames("др", 5)).containsExactly("дрель");
+    }
+
+    @Test
+    void renameReplacesOldTokens() {
+        Item item = storage.addItem(item("Дрель", true));
+
+        storage.updateItem(item.getId(), item("Перфоратор", true));
+
+        assertThat(storage.suggestItemNames("др", 5)).isEmpty();
+        assertThat(storage.suggestItemNames("пер", 5)).containsExactly("перфоратор");
+    }
+
+    @Test
+    void deleteRemovesSuggestions() {
+        Item drill = storage.addItem(item("Дрель", true));
+        storage.addItem(item("Дрова", true));
+
+        storage.deleteItemById(drill.getId());
+        assertThat(storage.suggestItemNames("др", 5)).containsExactly("дрова");
+
+        storage.deleteAllItems();
+        assertThat(storage.suggestItemNames("др", 5)).isEmpty();
+    }
+
+    @Test
+    void parallelSearchKeepsIdOrder() {
+        fillCatalog();
+
+        assertThat(parallelStorage.searchItems("Дрель")).containsExactlyElementsOf(expectedMatches("дрель"));
+        assertThat(parallelStorage.searchItems("пила")).containsExactlyElementsOf(expectedMatches("пила"));
+    }
+
+    @Test
+    void limitedParallelSearchReturnsFirstMatches() {
+        fillCatalog();
+        List<Item> drills = expectedMatches("дрель");
+        List<Item> saws = expectedMatches("пила");
+
+        for (int limit : new int[]{1, 7, 100, 1000}) {
+            assertThat(parallelStorage.searchItems("дрель", limit)).containsExactlyElementsOf(drills.subList(0, limit));
+        }
+        assertThat(parallelStorage.searchItems("пила", 3)).containsExactlyElementsOf(saws.subList(0, 3));
+        assertThat(parallelStorage.searchItems("пила", saws.size() + 10)).containsExactlyElementsOf(saws);
+    }
+
+    // about ten snapshot segments; saws only show up in the last ones
+    private void fillCatalog() {
+        for (int i = 0; i < 5000; i++) {
+            String name = i > 4500 && i % 3 == 0 ? "Пила " + i : "Дрель " + i;
+            parallelStorage.addItem(item(name, i % 5 != 0));
+        }
+    }
+
+    private List<Item> expectedMatches(String text) {
+        return parallelStorage.getAllItems().stream()
+                .filter(item -> item.getAvailable() && item.getName().toLowerCase().contains(text))
+                .toList();
+    }
+
+    private Item item(String name, boolean available) {
+        return Item.builder()
+                .name(name)
+                .description("Описание")
+                .available(available)
+                .owner(owner)
+                .build();
+    }
+}
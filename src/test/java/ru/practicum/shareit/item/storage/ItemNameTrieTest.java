@@ -0,0 +1,73 @@
+package ru.practicum.shareit.item.storage;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ItemNameTrieTest {
+
+    private final ItemNameTrie trie = new ItemNameTrie();
+
+    @Test
+    void suggestReturnsMostFrequentCompletionsFirst() {
+        trie.add("Дрель ударная");
+        trie.add("Дрель Bosch");
+        trie.add("дрель");
+        trie.add("Дом-палатка дом");
+        trie.add("Душ походный");
+
+        assertThat(trie.suggest("д", 2)).containsExactly("дрель", "дом");
+        assertThat(trie.suggest("д", 10)).containsExactly("дрель", "дом", "душ");
+    }
+
+    @Test
+    void suggestOrdersEqualFrequenciesAlphabetically() {
+        trie.add("пила");
+        trie.add("палатка");
+        trie.add("проектор");
+
+        assertThat(trie.suggest("п", 3)).containsExactly("палатка", "пила", "проектор");
+    }
+
+    @Test
+    void suggestNormalizesPrefixAndCompletesLastToken() {
+        trie.add("Дрель");
+        trie.add("Лестница");
+
+        assertThat(trie.suggest("ДР", 5)).containsExactly("дрель");
+        assertThat(trie.suggest("ударная ле", 5)).containsExactly("лестница");
+        assertThat(trie.suggest("  ", 5)).isEmpty();
+        assertThat(trie.suggest("д", 0)).isEmpty();
+    }
+
+    @Test
+    void removePrunesNodesNobodyUses() {
+        trie.add("Дрель ударная");
+        trie.remove("Дрель ударная");
+
+        assertThat(trie.suggest("д", 5)).isEmpty();
+        assertThat(trie.isEmpty()).isTrue();
+    }
+
+    @Test
+    void removeKeepsSharedPrefixesAndOtherOccurrences() {
+        trie.add("дрель");
+        trie.add("дрель");
+        trie.add("дрова");
+
+        trie.remove("дрель");
+        assertThat(trie.suggest("др", 5)).containsExactly("дрель", "дрова");
+
+        trie.remove("дрель");
+        assertThat(trie.suggest("др", 5)).containsExactly("дрова");
+    }
+
+    @Test
+    void removeOfUnknownNameChangesNothing() {
+        trie.add("дрель");
+        trie.remove("дрова");
+        trie.remove("др");
+
+        assertThat(trie.suggest("д", 5)).containsExactly("дрель");
+    }
+}
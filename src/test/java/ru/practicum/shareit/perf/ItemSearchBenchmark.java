@@ -0,0 +1,86 @@
+package ru.practicum.shareit.perf;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.storage.InMemoryItemStorage;
+import ru.practicum.shareit.storage.TimeOrderedIdGenerator;
+import ru.practicum.shareit.user.User;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Item search over catalogs on both sides of the default parallel threshold (10000).
+ * {@code parallelism = 0} forces the sequential scan, other values set the size of the search pool,
+ * so one run shows where the fork/join path starts paying off and how it scales from 1 to 16 cores.
+ * <pre>
+ * mvn test-compile
+ * java -cp "target/test-classes:target/classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout)" \
+ *     ru.practicum.shareit.perf.ItemSearchBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ItemSearchBenchmark {
+
+    private static final String[] WORDS = {"дрель", "перфоратор", "лестница", "палатка", "велосипед", "самокат",
+            "отвёртка", "пила", "стремянка", "проектор", "колонка", "байдарка"};
+
+    @Param({"1000", "5000", "10000", "50000", "200000"})
+    public int catalogSize;
+
+    @Param({"0", "1", "2", "4", "8", "16"})
+    public int parallelism;
+
+    private InMemoryItemStorage storage;
+
+    @Setup
+    public void setUp() {
+        int threshold = parallelism == 0 ? Integer.MAX_VALUE : 0;
+        TimeOrderedIdGenerator idGenerator = new TimeOrderedIdGenerator(0);
+        storage = new InMemoryItemStorage(idGenerator, List.of(), threshold,
+                Math.max(parallelism, 1));
+
+        User owner = User.builder().userId(1L).name("owner").email("owner@example.com").build();
+        Random random = new Random(42);
+        for (int i = 0; i < catalogSize; i++) {
+            String word = WORDS[random.nextInt(WORDS.length)];
+            storage.addItem(Item.builder()
+                    .name(word + " " + i)
+                    .description("Описание: " + word)
+                    .available(random.nextInt(4) != 0)
+                    .owner(owner)
+                    .build());
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        storage.shutdown();
+    }
+
+    @Benchmark
+    public List<Item> searchAll() {
+        return storage.searchItems("дрель");
+    }
+
+    @Benchmark
+    public List<Item> searchFirstTwenty() {
+        return storage.searchItems("дрель", 20);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ItemSearchBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
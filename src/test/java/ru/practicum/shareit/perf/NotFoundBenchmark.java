@@ -0,0 +1,102 @@
+package ru.practicum.shareit.perf;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import ru.practicum.shareit.booking.BookingOccupancy;
+import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.item.mapper.ItemMapper;
+import ru.practicum.shareit.item.service.ItemServiceImpl;
+import ru.practicum.shareit.item.storage.InMemoryItemStorage;
+import ru.practicum.shareit.storage.TimeOrderedIdGenerator;
+import ru.practicum.shareit.user.InMemoryUserStorage;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of a 404 lookup: {@link ItemServiceImpl#getItemById} on a missing id with the stackless
+ * {@link NotFoundException}, against the same lookup throwing an exception that records its stack trace,
+ * as {@code NotFoundException} did before. {@code callDepth} adds frames above the lookup, roughly what
+ * the servlet container and Spring MVC put on the stack of a real request.
+ * Run it the same way as {@link ItemSearchBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NotFoundBenchmark {
+
+    private static final long MISSING_ID = -1L;
+
+    @Param({"0", "100"})
+    public int callDepth;
+
+    private InMemoryItemStorage itemStorage;
+    private ItemServiceImpl itemService;
+
+    @Setup
+    public void setUp() {
+        TimeOrderedIdGenerator idGenerator = new TimeOrderedIdGenerator(0);
+        itemStorage = new InMemoryItemStorage(idGenerator, List.of(), 10000, 1);
+        itemService = new ItemServiceImpl(itemStorage, new InMemoryUserStorage(idGenerator), new BookingOccupancy());
+    }
+
+    @TearDown
+    public void tearDown() {
+        itemStorage.shutdown();
+    }
+
+    @Benchmark
+    public void stackless(Blackhole blackhole) {
+        blackhole.consume(atDepth(callDepth, this::stacklessLookup));
+    }
+
+    @Benchmark
+    public void stackful(Blackhole blackhole) {
+        blackhole.consume(atDepth(callDepth, this::stackfulLookup));
+    }
+
+    private String stacklessLookup() {
+        try {
+            return itemService.getItemById(MISSING_ID).getName();
+        } catch (NotFoundException e) {
+            return e.getMessage();
+        }
+    }
+
+    private String stackfulLookup() {
+        try {
+            return ItemMapper.toItemDto(itemStorage.findItemById(MISSING_ID)
+                    .orElseThrow(() -> new StackfulNotFoundException("Вещь с ID=" + MISSING_ID + " не найдена")))
+                    .getName();
+        } catch (StackfulNotFoundException e) {
+            return e.getMessage();
+        }
+    }
+
+    private static String atDepth(int depth, Lookup lookup) {
+        return depth == 0 ? lookup.run() : atDepth(depth - 1, lookup);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(NotFoundBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+
+    private interface Lookup {
+        String run();
+    }
+
+    private static class StackfulNotFoundException extends RuntimeException {
+        StackfulNotFoundException(String message) {
+            super(message);
+        }
+    }
+}
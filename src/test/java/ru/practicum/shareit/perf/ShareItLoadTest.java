@@ -0,0 +1,301 @@
+package ru.practicum.shareit.perf;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Reproducible load run against the REST API on a random port. Disabled unless requested:
+ * <pre>
+ * mvn test -Dtest=ShareItLoadTest -Dshareit.load.enabled=true -Dshareit.load.clients=500
+ * </pre>
+ * Scale is set with {@code shareit.load.users}, {@code .items}, {@code .clients}, {@code .duration-seconds}
+ * and {@code .seed}. Every client is a virtual thread with its own seeded random, so the request mix repeats
+ * from run to run. Per-endpoint throughput and latency percentiles go to stdout and to
+ * {@code target/load-test-summary.json}.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@EnabledIfSystemProperty(named = "shareit.load.enabled", matches = "true")
+class ShareItLoadTest {
+
+    private static final String USER_HEADER = "X-Sharer-User-Id";
+    private static final String[] WORDS = {"дрель", "перфоратор", "лестница", "палатка", "велосипед", "самокат",
+            "отвёртка", "пила", "стремянка", "проектор", "колонка", "байдарка"};
+
+    private final int users = Integer.getInteger("shareit.load.users", 200);
+    private final int items = Integer.getInteger("shareit.load.items", 2000);
+    private final int clients = Integer.getInteger("shareit.load.clients", 200);
+    private final int durationSeconds = Integer.getInteger("shareit.load.duration-seconds", 30);
+    private final long seed = Long.getLong("shareit.load.seed", 42L);
+
+    private final AtomicLong userSequence = new AtomicLong();
+    private final ExecutorService clientExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final HttpClient client = HttpClient.newBuilder()
+            .executor(clientExecutor)
+            .build();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @AfterEach
+    void closeClient() {
+        // HttpClient.close() leaves a caller-supplied executor running
+        client.close();
+        clientExecutor.close();
+    }
+
+    @Test
+    void mixedWorkload() throws Exception {
+        List<Long> userIds = new ArrayList<>();
+        List<long[]> seededItems = new ArrayList<>();
+        seed(userIds, seededItems);
+
+        long started = System.nanoTime();
+        long deadline = started + durationSeconds * 1_000_000_000L;
+        List<Map<Endpoint, Recorder>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Map<Endpoint, Recorder>>> futures = new ArrayList<>();
+            for (int i = 0; i < clients; i++) {
+                Random random = new Random(seed + i);
+                futures.add(executor.submit(() -> runClient(random, userIds, seededItems, deadline)));
+            }
+            for (Future<Map<Endpoint, Recorder>> future : futures) {
+                results.add(future.get());
+            }
+        }
+        // requests in flight at the deadline finish late, so the nominal duration would overstate throughput
+        double elapsedSeconds = (System.nanoTime() - started) / 1_000_000_000.0;
+
+        Map<String, Object> summary = summarize(results, elapsedSeconds);
+        String json = objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(summary);
+        System.out.println(json);
+        Files.writeString(Path.of("target", "load-test-summary.json"), json);
+
+        long errors = results.stream()
+                .flatMap(result -> result.values().stream())
+                .mapToLong(recorder -> recorder.errors)
+                .sum();
+        assertEquals(0, errors, "Часть запросов завершилась ошибкой");
+    }
+
+    private void seed(List<Long> userIds, List<long[]> seededItems) throws Exception {
+        Random random = new Random(seed);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Long>> userFutures = new ArrayList<>();
+            for (int i = 0; i < users; i++) {
+                userFutures.add(executor.submit(this::createUser));
+            }
+            for (Future<Long> future : userFutures) {
+                userIds.add(future.get());
+            }
+
+            List<Future<long[]>> itemFutures = new ArrayList<>();
+            for (int i = 0; i < items; i++) {
+                long ownerId = userIds.get(random.nextInt(userIds.size()));
+                String name = WORDS[random.nextInt(WORDS.length)] + " " + i;
+                itemFutures.add(executor.submit(() -> new long[]{createItem(ownerId, name), ownerId}));
+            }
+            for (Future<long[]> future : itemFutures) {
+                seededItems.add(future.get());
+            }
+        }
+    }
+
+    private Map<Endpoint, Recorder> runClient(Random random, List<Long> userIds, List<long[]> seededItems,
+                                              long deadline) {
+        Map<Endpoint, Recorder> recorders = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : Endpoint.values()) {
+            recorders.put(endpoint, new Recorder());
+        }
+
+        while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+            Endpoint endpoint = Endpoint.pick(random.nextInt(100));
+            HttpRequest request = switch (endpoint) {
+                case SEARCH -> get("/items/search?text="
+                        + URLEncoder.encode(WORDS[random.nextInt(WORDS.length)], StandardCharsets.UTF_8));
+                case OWNER_ITEMS -> get("/items/owner/" + userIds.get(random.nextInt(userIds.size())));
+                case UPDATE_ITEM -> {
+                    long[] item = seededItems.get(random.nextInt(seededItems.size()));
+                    yield HttpRequest.newBuilder(uri("/items/" + item[0]))
+                            .header("Content-Type", "application/json")
+                            .header(USER_HEADER, String.valueOf(item[1]))
+                            .method("PATCH", HttpRequest.BodyPublishers.ofString(
+                                    "{\"available\":" + random.nextBoolean() + "}"))
+                            .build();
+                }
+                case CREATE_USER -> userRequest();
+            };
+
+            long start = System.nanoTime();
+            boolean success;
+            try {
+                success = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() / 100 == 2;
+            } catch (IOException e) {
+                success = false;
+            } catch (InterruptedException e) {
+                // the run is being cancelled: stop this client instead of reporting a failed request
+                Thread.currentThread().interrupt();
+                break;
+            }
+            recorders.get(endpoint).record(System.nanoTime() - start, success);
+        }
+        return recorders;
+    }
+
+    private Map<String, Object> summarize(List<Map<Endpoint, Recorder>> results, double elapsedSeconds) {
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        for (Endpoint endpoint : Endpoint.values()) {
+            Recorder merged = new Recorder();
+            results.forEach(result -> merged.merge(result.get(endpoint)));
+            long[] latencies = Arrays.copyOf(merged.latencies, merged.count);
+            Arrays.sort(latencies);
+
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("requests", merged.count);
+            stats.put("errors", merged.errors);
+            stats.put("throughputPerSecond", merged.count / elapsedSeconds);
+            stats.put("p50Ms", percentile(latencies, 0.5));
+            stats.put("p99Ms", percentile(latencies, 0.99));
+            stats.put("p999Ms", percentile(latencies, 0.999));
+            endpoints.put(endpoint.title, stats);
+        }
+
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("users", users);
+        config.put("items", items);
+        config.put("clients", clients);
+        config.put("durationSeconds", durationSeconds);
+        config.put("seed", seed);
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("config", config);
+        summary.put("elapsedSeconds", elapsedSeconds);
+        summary.put("endpoints", endpoints);
+        return summary;
+    }
+
+    private static double percentile(long[] sortedLatencies, double quantile) {
+        if (sortedLatencies.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sortedLatencies.length) - 1;
+        return sortedLatencies[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    private long createUser() throws Exception {
+        return extractId(client.send(userRequest(), HttpResponse.BodyHandlers.ofString()));
+    }
+
+    private long createItem(long ownerId, String name) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri("/items"))
+                .header("Content-Type", "application/json")
+                .header(USER_HEADER, String.valueOf(ownerId))
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(Map.of(
+                        "name", name,
+                        "description", "Описание: " + name,
+                        "available", true))))
+                .build();
+        return extractId(client.send(request, HttpResponse.BodyHandlers.ofString()));
+    }
+
+    private HttpRequest userRequest() {
+        long number = userSequence.incrementAndGet();
+        return HttpRequest.newBuilder(uri("/users"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"name\":\"user" + number + "\",\"email\":\"user" + number + "@load.test\"}"))
+                .build();
+    }
+
+    private long extractId(HttpResponse<String> response) throws IOException {
+        JsonNode body = objectMapper.readTree(response.body());
+        if (response.statusCode() / 100 != 2 || !body.hasNonNull("id")) {
+            throw new IllegalStateException("Не удалось подготовить данные: " + response.body());
+        }
+        return body.get("id").asLong();
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(uri(path)).GET().build();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private enum Endpoint {
+        SEARCH("GET /items/search", 50),
+        OWNER_ITEMS("GET /items/owner/{id}", 25),
+        UPDATE_ITEM("PATCH /items/{id}", 20),
+        CREATE_USER("POST /users", 5);
+
+        private final String title;
+        private final int share;
+
+        Endpoint(String title, int share) {
+            this.title = title;
+            this.share = share;
+        }
+
+        static Endpoint pick(int percent) {
+            int bound = 0;
+            for (Endpoint endpoint : values()) {
+                bound += endpoint.share;
+                if (percent < bound) {
+                    return endpoint;
+                }
+            }
+            return SEARCH;
+        }
+    }
+
+    private static class Recorder {
+        private long[] latencies = new long[1024];
+        private int count;
+        private long errors;
+
+        void record(long nanos, boolean success) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = nanos;
+            if (!success) {
+                errors++;
+            }
+        }
+
+        void merge(Recorder other) {
+            if (count + other.count > latencies.length) {
+                latencies = Arrays.copyOf(latencies, count + other.count);
+            }
+            System.arraycopy(other.latencies, 0, latencies, count, other.count);
+            count += other.count;
+            errors += other.errors;
+        }
+    }
+}
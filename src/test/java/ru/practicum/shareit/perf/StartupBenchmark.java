@@ -0,0 +1,132 @@
+package ru.practicum.shareit.perf;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Measures the time from launching the application process to the first successful {@code GET /items/{id}}.
+ * Runs outside of the test suite:
+ * <pre>
+ * mvn -Pfast-start package -DskipTests
+ * java -cp target/test-classes ru.practicum.shareit.perf.StartupBenchmark \
+ *     target/fast-start/shareit-0.0.1-SNAPSHOT.jar \
+ *     -XX:SharedArchiveFile=target/fast-start/application.jsa -Dspring.aot.enabled=true \
+ *     -Dspring.profiles.active=fast-start -Dshareit.id.node-id=0
+ * </pre>
+ * Arguments after the jar are passed to the JVM. {@code -Dshareit.startup.runs} sets the number of launches,
+ * {@code -Dshareit.startup.max-ms} makes the run fail when the median exceeds the budget.
+ */
+public class StartupBenchmark {
+
+    private static final Pattern ID_PATTERN = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+    private static final Duration TIMEOUT = Duration.ofSeconds(60);
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofMillis(200))
+            .build();
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 0) {
+            System.err.println("Usage: StartupBenchmark <application jar> [jvm options...]");
+            System.exit(2);
+        }
+
+        int runs = Integer.getInteger("shareit.startup.runs", 5);
+        long maxMillis = Long.getLong("shareit.startup.max-ms", Long.MAX_VALUE);
+        StartupBenchmark benchmark = new StartupBenchmark();
+
+        long[] results = new long[runs];
+        for (int i = 0; i < runs; i++) {
+            results[i] = benchmark.measure(args[0], Arrays.asList(args).subList(1, args.length));
+            System.out.printf("run %d: %d ms%n", i + 1, results[i]);
+        }
+
+        Arrays.sort(results);
+        long median = results[runs / 2];
+        System.out.printf("{\"runs\":%d,\"minMs\":%d,\"medianMs\":%d,\"maxMs\":%d}%n",
+                runs, results[0], median, results[runs - 1]);
+
+        if (median > maxMillis) {
+            System.err.printf("Median startup %d ms exceeds budget of %d ms%n", median, maxMillis);
+            System.exit(1);
+        }
+    }
+
+    private long measure(String jar, List<String> jvmOptions) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+        command.addAll(jvmOptions);
+        command.add("-jar");
+        command.add(jar);
+        command.add("--server.port=" + port);
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            String base = "http://localhost:" + port;
+            long userId = extractId(awaitSuccess(post(base + "/users",
+                    "{\"name\":\"bench\",\"email\":\"bench@example.com\"}", null), start));
+            long itemId = extractId(awaitSuccess(post(base + "/items",
+                    "{\"name\":\"Дрель\",\"description\":\"Простая дрель\",\"available\":true}", userId), start));
+            awaitSuccess(HttpRequest.newBuilder(URI.create(base + "/items/" + itemId)).GET().build(), start);
+            return (System.nanoTime() - start) / 1_000_000;
+        } finally {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    private HttpResponse<String> awaitSuccess(HttpRequest request, long start) throws InterruptedException {
+        while (System.nanoTime() - start < TIMEOUT.toNanos()) {
+            try {
+                HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() / 100 == 2) {
+                    return response;
+                }
+            } catch (IOException e) {
+                // the application is not listening yet
+            }
+            Thread.sleep(5);
+        }
+        throw new IllegalStateException("Приложение не ответило за " + TIMEOUT.toSeconds() + " с");
+    }
+
+    private static HttpRequest post(String uri, String body, Long userId) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(uri))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+        if (userId != null) {
+            builder.header("X-Sharer-User-Id", userId.toString());
+        }
+        return builder.build();
+    }
+
+    private static long extractId(HttpResponse<String> response) {
+        Matcher matcher = ID_PATTERN.matcher(response.body());
+        if (!matcher.find()) {
+            throw new IllegalStateException("В ответе нет id: " + response.body());
+        }
+        return Long.parseLong(matcher.group(1));
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
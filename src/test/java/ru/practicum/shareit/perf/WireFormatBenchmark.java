@@ -0,0 +1,85 @@
+package ru.practicum.shareit.perf;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import ru.practicum.shareit.item.dto.ItemDto;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serialization time of a 10k-item {@code /items} response in JSON, gzipped JSON, CBOR and Smile.
+ * The size of each encoding is printed once per fork, before the measurements start.
+ * Run it the same way as {@link ItemSearchBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WireFormatBenchmark {
+
+    private static final int ITEM_COUNT = 10_000;
+
+    private final ObjectMapper jsonMapper = new ObjectMapper();
+    private final ObjectMapper cborMapper = new ObjectMapper(new CBORFactory());
+    private final ObjectMapper smileMapper = new ObjectMapper(new SmileFactory());
+
+    private List<ItemDto> items;
+
+    @Setup
+    public void setUp() throws IOException {
+        items = LongStream.rangeClosed(1, ITEM_COUNT)
+                .mapToObj(id -> ItemDto.builder()
+                        .id(id)
+                        .name("Дрель ударная " + id)
+                        .description("Мощная дрель с набором свёрл, кейсом и запасной щёткой")
+                        .available(id % 4 != 0)
+                        .build())
+                .toList();
+
+        System.out.printf("%nbytes on the wire for %d items: json=%d, json+gzip=%d, cbor=%d, smile=%d%n",
+                ITEM_COUNT, json().length, jsonGzip().length, cbor().length, smile().length);
+    }
+
+    @Benchmark
+    public byte[] json() throws IOException {
+        return jsonMapper.writeValueAsBytes(items);
+    }
+
+    @Benchmark
+    public byte[] jsonGzip() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            jsonMapper.writeValue(gzip, items);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] cbor() throws IOException {
+        return cborMapper.writeValueAsBytes(items);
+    }
+
+    @Benchmark
+    public byte[] smile() throws IOException {
+        return smileMapper.writeValueAsBytes(items);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(WireFormatBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,166 @@
+package ru.practicum.shareit.storage;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SnapshotMapTest {
+
+    private final SnapshotMap<String> map = new SnapshotMap<>();
+
+    @Test
+    void putAndRemoveAcrossSegmentSplits() {
+        for (long key = 5000; key > 0; key--) {
+            map.put(key, "v" + key);
+        }
+
+        assertThat(map.size()).isEqualTo(5000);
+        assertThat(map.values()).containsExactlyElementsOf(
+                LongStream.rangeClosed(1, 5000).mapToObj(key -> "v" + key).toList());
+
+        for (long key = 1; key <= 5000; key += 2) {
+            assertThat(map.remove(key)).isEqualTo("v" + key);
+        }
+
+        assertThat(map.size()).isEqualTo(2500);
+        assertThat(map.get(1L)).isNull();
+        assertThat(map.get(2L)).isEqualTo("v2");
+        assertThat(map.get(5000L)).isEqualTo("v5000");
+        assertThat(map.values()).containsExactlyElementsOf(
+                LongStream.rangeClosed(1, 2500).mapToObj(key -> "v" + key * 2).toList());
+    }
+
+    @Test
+    void removingWholeSegmentsKeepsLookupsWorking() {
+        for (long key = 1; key <= 3000; key++) {
+            map.put(key, "v" + key);
+        }
+        for (long key = 1; key <= 2000; key++) {
+            map.remove(key);
+        }
+
+        assertThat(map.size()).isEqualTo(1000);
+        assertThat(map.get(2001L)).isEqualTo("v2001");
+        assertThat(map.remove(42L)).isNull();
+
+        map.put(1L, "below first segment");
+        assertThat(map.get(1L)).isEqualTo("below first segment");
+        assertThat(map.values()).first().isEqualTo("below first segment");
+    }
+
+    @Test
+    void keyBelowFirstSegmentGoesToFirstSegment() {
+        map.put(100L, "v100");
+        map.put(50L, "v50");
+
+        assertThat(map.get(50L)).isEqualTo("v50");
+        assertThat(map.get(10L)).isNull();
+        assertThat(map.remove(10L)).isNull();
+        assertThat(map.values()).containsExactly("v50", "v100");
+    }
+
+    @Test
+    void sizeCountsInsertsButNotOverwrites() {
+        assertThat(map.put(1L, "a")).isNull();
+        assertThat(map.put(2L, "b")).isNull();
+        assertThat(map.put(1L, "c")).isEqualTo("a");
+
+        assertThat(map.size()).isEqualTo(2);
+        assertThat(map.values()).hasSize(2).containsExactly("c", "b");
+
+        map.remove(2L);
+        map.remove(2L);
+        assertThat(map.size()).isEqualTo(1);
+
+        map.clear();
+        assertThat(map.size()).isZero();
+        assertThat(map.values()).isEmpty();
+    }
+
+    @Test
+    void snapshotDoesNotChangeAfterLaterWrites() {
+        map.put(1L, "a");
+        map.put(2L, "b");
+        Collection<String> snapshot = map.values();
+
+        map.put(3L, "c");
+        map.put(1L, "changed");
+        map.remove(2L);
+
+        assertThat(snapshot).hasSize(2).containsExactly("a", "b");
+        assertThat(map.values()).containsExactly("changed", "c");
+
+        map.clear();
+        assertThat(snapshot).containsExactly("a", "b");
+    }
+
+    @Test
+    void snapshotIsUnmodifiable() {
+        map.put(1L, "a");
+        Collection<String> snapshot = map.values();
+
+        assertThatThrownBy(() -> snapshot.add("b")).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> {
+            var iterator = snapshot.iterator();
+            iterator.next();
+            iterator.remove();
+        }).isInstanceOf(UnsupportedOperationException.class);
+        assertThat(map.get(1L)).isEqualTo("a");
+    }
+
+    @Test
+    void segmentsSplitSnapshotInKeyOrder() {
+        for (long key = 1; key <= 3000; key++) {
+            map.put(key, "v" + key);
+        }
+        List<Collection<String>> segments = map.segments();
+        map.remove(1L);
+        map.put(3001L, "v3001");
+
+        assertThat(segments).hasSizeGreaterThan(1);
+        assertThat(segments).allSatisfy(segment -> assertThat(segment).hasSizeLessThanOrEqualTo(1024));
+        assertThat(segments.stream().flatMap(Collection::stream).toList()).containsExactlyElementsOf(
+                LongStream.rangeClosed(1, 3000).mapToObj(key -> "v" + key).toList());
+        assertThatThrownBy(() -> segments.get(0).clear()).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void iteratingWhileAnotherThreadWritesSeesConsistentSnapshots() throws Exception {
+        AtomicBoolean running = new AtomicBoolean(true);
+        List<Throwable> failures = new ArrayList<>();
+        Thread writer = new Thread(() -> {
+            try {
+                for (long key = 1; key <= 20_000; key++) {
+                    map.put(key, "v" + key);
+                    if (key % 3 == 0) {
+                        map.remove(key - 1);
+                    }
+                }
+            } catch (Throwable e) {
+                failures.add(e);
+            } finally {
+                running.set(false);
+            }
+        });
+        writer.start();
+
+        while (running.get()) {
+            Collection<String> snapshot = map.values();
+            List<String> copy = new ArrayList<>(snapshot);
+            assertThat(copy).hasSize(snapshot.size());
+            assertThat(copy).isSortedAccordingTo((first, second) ->
+                    Long.compare(Long.parseLong(first.substring(1)), Long.parseLong(second.substring(1))));
+        }
+        writer.join();
+
+        assertThat(failures).isEmpty();
+        assertThat(map.size()).isEqualTo(20_000 - 20_000 / 3);
+    }
+}
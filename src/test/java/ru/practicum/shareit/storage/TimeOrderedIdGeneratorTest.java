@@ -0,0 +1,105 @@
+package ru.practicum.shareit.storage;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TimeOrderedIdGeneratorTest {
+
+    private static final long NOW = 1735689600000L;
+
+    @Test
+    void idsAreUniqueAndIncreasingAcrossManyThreads() throws Exception {
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(3);
+        int threads = 16;
+        int idsPerThread = 20_000;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<long[]>> futures = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    long[] ids = new long[idsPerThread];
+                    for (int j = 0; j < idsPerThread; j++) {
+                        ids[j] = generator.nextId();
+                    }
+                    return ids;
+                }));
+            }
+            start.countDown();
+
+            Set<Long> unique = new HashSet<>();
+            for (Future<long[]> future : futures) {
+                long[] ids = future.get();
+                for (int j = 0; j < ids.length; j++) {
+                    if (j > 0) {
+                        assertThat(ids[j]).isGreaterThan(ids[j - 1]);
+                    }
+                    unique.add(ids[j]);
+                }
+            }
+            assertThat(unique).hasSize(threads * idsPerThread);
+        }
+    }
+
+    @Test
+    void moreIdsThanSequenceWithinOneMillisecondStayIncreasing() {
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(5, () -> NOW);
+
+        long previous = generator.nextId();
+        for (int i = 0; i < 1000; i++) {
+            long id = generator.nextId();
+            assertThat(id).isGreaterThan(previous);
+            assertThat(nodeOf(id)).isEqualTo(5);
+            previous = id;
+        }
+    }
+
+    @Test
+    void clockSteppingBackwardsDoesNotRepeatIds() {
+        AtomicLong clock = new AtomicLong(NOW);
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(1, clock::get);
+
+        long beforeStep = generator.nextId();
+        clock.set(NOW - 60_000);
+        long afterStep = generator.nextId();
+        long next = generator.nextId();
+        clock.set(NOW + 1);
+        long afterRecovery = generator.nextId();
+
+        assertThat(afterStep).isGreaterThan(beforeStep);
+        assertThat(next).isGreaterThan(afterStep);
+        assertThat(afterRecovery).isGreaterThan(next);
+        assertThat(nodeOf(afterStep)).isEqualTo(1);
+    }
+
+    @Test
+    void idsFitIntoJavaScriptSafeIntegers() {
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(31);
+
+        assertThat(generator.nextId()).isLessThan(1L << 53);
+    }
+
+    @Test
+    void nodeIdMustBeSetAndInRange() {
+        assertThatThrownBy(() -> new TimeOrderedIdGenerator(-1)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new TimeOrderedIdGenerator(32)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TimeOrderedIdGenerator(-2)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static long nodeOf(long id) {
+        return (id >>> 7) & 31;
+    }
+}
@@ -0,0 +1,61 @@
+package ru.practicum.shareit.user;
+
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.exception.ConflictException;
+import ru.practicum.shareit.storage.TimeOrderedIdGenerator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InMemoryUserStorageTest {
+
+    private final InMemoryUserStorage storage = new InMemoryUserStorage(new TimeOrderedIdGenerator(0));
+
+    @Test
+    void addUserRejectsTakenEmail() {
+        storage.addUser(user("first@example.com"));
+
+        assertThatThrownBy(() -> storage.addUser(user("first@example.com")))
+                .isInstanceOf(ConflictException.class);
+        assertThat(storage.getAllUsers()).hasSize(1);
+    }
+
+    @Test
+    void concurrentAddsWithSameEmailCreateOneUser() throws Exception {
+        int threads = 16;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        storage.addUser(user("same@example.com"));
+                        return true;
+                    } catch (ConflictException e) {
+                        return false;
+                    }
+                }));
+            }
+            start.countDown();
+
+            int created = 0;
+            for (Future<Boolean> result : results) {
+                created += result.get() ? 1 : 0;
+            }
+            assertThat(created).isEqualTo(1);
+        }
+        assertThat(storage.getAllUsers()).hasSize(1);
+    }
+
+    private User user(String email) {
+        return User.builder().name("user").email(email).build();
+    }
+}